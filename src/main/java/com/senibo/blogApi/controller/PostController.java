@@ -3,6 +3,7 @@ package com.senibo.blogApi.controller;
 import com.senibo.blogApi.dto.ApiResponse;
 import com.senibo.blogApi.dto.PostRequest;
 import com.senibo.blogApi.dto.PostResponse;
+import com.senibo.blogApi.dto.RelatedPostResponse;
 import com.senibo.blogApi.service.PostService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
@@ -51,6 +52,18 @@ public class PostController {
         return ApiResponse.success(response, "Post retrieved successfully");
     }
 
+    @Operation(summary = "Get related posts", description = "Retrieve posts sharing tags with the given post, best match first. Posts in the same category win ties.")
+    @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "200", description = "Related posts retrieved successfully", content = @Content(schema = @Schema(implementation = RelatedPostResponse.class)))
+    @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "404", description = "Post not found")
+    @GetMapping(value = "/{id}/related", produces = {"application/json", "application/xml"})
+    public ApiResponse<List<RelatedPostResponse>> getRelatedPosts(
+            @PathVariable("id") @Parameter(description = "UUID of the post") String id,
+            @RequestParam(name = "limit", defaultValue = "5") @Parameter(description = "Maximum number of related posts (1-20)") int limit) {
+        List<RelatedPostResponse> response = postService.getRelatedPosts(id, limit);
+
+        return ApiResponse.success(response, "Related posts retrieved successfully");
+    }
+
 
     @Operation(summary = "Create a new post", description = "Create and save a new blog post with a title, content, category, and tags.")
     @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "201", description = "Post created successfully", content = @Content(schema = @Schema(implementation = PostResponse.class)))
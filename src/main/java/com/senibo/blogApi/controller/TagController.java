@@ -0,0 +1,37 @@
+package com.senibo.blogApi.controller;
+
+import com.senibo.blogApi.dto.ApiResponse;
+import com.senibo.blogApi.dto.TagSuggestionResponse;
+import com.senibo.blogApi.service.TagService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.Schema;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.List;
+
+@RestController
+@RequestMapping("/api/v1/tags")
+@Tag(name = "Tags", description = "Look up tags used by blog posts")
+public class TagController {
+
+    private final TagService tagService;
+
+    public TagController(TagService tagService) {
+        this.tagService = tagService;
+    }
+
+    @Operation(summary = "Suggest tags", description = "Autocomplete tag names starting with the given prefix, most used first.")
+    @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "200", description = "Suggestions retrieved successfully", content = @Content(schema = @Schema(implementation = TagSuggestionResponse.class)))
+    @GetMapping(value = "/suggest", produces = {"application/json", "application/xml"})
+    public ApiResponse<List<TagSuggestionResponse>> suggestTags(
+            @RequestParam(name = "prefix") @Parameter(description = "Beginning of the tag name (case-insensitive)") String prefix,
+            @RequestParam(name = "limit", defaultValue = "10") @Parameter(description = "Maximum number of suggestions (1-50)") int limit) {
+
+        List<TagSuggestionResponse> response = tagService.suggestTags(prefix, limit);
+
+        return ApiResponse.success(response, "Tag suggestions retrieved successfully");
+    }
+}
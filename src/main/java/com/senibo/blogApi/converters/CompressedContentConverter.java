@@ -0,0 +1,83 @@
+package com.senibo.blogApi.converters;
+
+import jakarta.persistence.AttributeConverter;
+import jakarta.persistence.Converter;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Stores large post bodies gzip-compressed (Base64 encoded, prefixed with a format header).
+ * Values without the header are returned as-is, so rows written before compression was
+ * enabled, or while it is switched off, keep working.
+ */
+@Converter
+public class CompressedContentConverter implements AttributeConverter<String, String> {
+
+    static final String HEADER = "{gz:v1}";
+
+    private static final Logger log = LoggerFactory.getLogger(CompressedContentConverter.class);
+    private final boolean enabled;
+    private final int thresholdChars;
+
+    public CompressedContentConverter(
+            @Value("${blog.content.compression.enabled:false}") boolean enabled,
+            @Value("${blog.content.compression.threshold-chars:4096}") int thresholdChars) {
+        this.enabled = enabled;
+        this.thresholdChars = thresholdChars;
+    }
+
+    @Override
+    public String convertToDatabaseColumn(String content) {
+        if (content == null) return null;
+
+        // Content that happens to start with the header must be compressed, otherwise it would be misread on load
+        boolean startsWithHeader = content.startsWith(HEADER);
+        if (!startsWithHeader && (!enabled || content.length() < thresholdChars)) {
+            return content;
+        }
+
+        String stored = HEADER + Base64.getEncoder().encodeToString(gzip(content));
+        if (!startsWithHeader && stored.length() >= content.length()) {
+            // Not worth it (already dense or random text), keep the plain form
+            return content;
+        }
+
+        log.debug("Compressed post content from {} to {} chars", content.length(), stored.length());
+        return stored;
+    }
+
+    @Override
+    public String convertToEntityAttribute(String stored) {
+        if (stored == null || !stored.startsWith(HEADER)) return stored;
+
+        return gunzip(Base64.getDecoder().decode(stored.substring(HEADER.length())));
+    }
+
+    private static byte[] gzip(String content) {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream(content.length() / 4);
+        try (GZIPOutputStream out = new GZIPOutputStream(bytes)) {
+            out.write(content.getBytes(StandardCharsets.UTF_8));
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to compress post content", e);
+        }
+        return bytes.toByteArray();
+    }
+
+    private static String gunzip(byte[] compressed) {
+        try (GZIPInputStream in = new GZIPInputStream(new ByteArrayInputStream(compressed))) {
+            return new String(in.readAllBytes(), StandardCharsets.UTF_8);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to decompress post content", e);
+        }
+    }
+}
@@ -0,0 +1,16 @@
+package com.senibo.blogApi.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+import java.util.Set;
+import java.util.UUID;
+
+@Schema(description = "Summary of a post related to another one")
+public record RelatedPostResponse(
+        @Schema(description = "UUID of the related post", example = "4c5e-abc-xyz") UUID id,
+        @Schema(description = "Post title") String title,
+        @Schema(description = "Display name of the category") String category,
+        @Schema(description = "Associated tags") Set<String> tags,
+        @Schema(description = "Jaccard similarity of the tags, from 0 to 1") double score
+) {
+}
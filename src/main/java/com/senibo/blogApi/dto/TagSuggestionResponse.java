@@ -0,0 +1,10 @@
+package com.senibo.blogApi.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+@Schema(description = "Tag suggested for a typed prefix")
+public record TagSuggestionResponse(
+        @Schema(description = "Tag name", example = "Spring") String name,
+        @Schema(description = "Number of posts using the tag") int usageCount
+) {
+}
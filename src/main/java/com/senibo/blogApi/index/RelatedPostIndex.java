@@ -0,0 +1,281 @@
+package com.senibo.blogApi.index;
+
+import com.senibo.blogApi.dto.RelatedPostResponse;
+import com.senibo.blogApi.model.Category;
+import com.senibo.blogApi.model.Post;
+import com.senibo.blogApi.model.Tag;
+import com.senibo.blogApi.repository.PostRepository;
+import jakarta.annotation.PostConstruct;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.PriorityQueue;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Collectors;
+
+/**
+ * In-memory index ranking related posts by Jaccard similarity of their tag sets, with a shared category
+ * breaking ties. Nothing here queries the database after the startup load.
+ * <p>
+ * Each post's top {@link #MAX_RELATED_POSTS} are computed from the tag posting lists on its first lookup and
+ * then kept up to date as posts change: a changed post is offered to the cached lists it now belongs in, and
+ * lists that contained it are dropped and recomputed on their next lookup. Popular posts are therefore served
+ * from the cache, and only a lookup after a write that affected the post pays for the scan.
+ */
+@Component
+public class RelatedPostIndex {
+
+    public static final int MAX_RELATED_POSTS = 20;
+
+    private static final Logger log = LoggerFactory.getLogger(RelatedPostIndex.class);
+
+    // Best match first: highest score, then same category, then title alphabetically
+    private static final Comparator<Candidate> RANKING = Comparator
+            .comparingDouble(Candidate::score).reversed()
+            .thenComparing(Candidate::sameCategory, Comparator.reverseOrder())
+            .thenComparing(candidate -> candidate.post().title());
+
+    private final Map<UUID, IndexedPost> posts = new ConcurrentHashMap<>();
+    private final Map<String, Set<UUID>> postsByTag = new ConcurrentHashMap<>();
+    private final Map<UUID, CachedRelated> relatedByPost = new ConcurrentHashMap<>();
+    // Post id -> posts whose cached list contains it. Guarded by this
+    private final Map<UUID, Set<UUID>> listedIn = new HashMap<>();
+    // Bumped by every write so lookups do not cache a list computed while posts changed. Guarded by this
+    private long version;
+    private final PostRepository postRepository;
+
+    public RelatedPostIndex(PostRepository postRepository) {
+        this.postRepository = postRepository;
+    }
+
+    // Runs while the context starts, before the web server accepts requests, so no post writes race the load
+    @PostConstruct
+    public synchronized void load() {
+        posts.clear();
+        postsByTag.clear();
+        relatedByPost.clear();
+        listedIn.clear();
+
+        Map<UUID, List<PostRepository.PostTagRow>> rowsByPost = postRepository.findAllPostTagRows().stream()
+                .collect(Collectors.groupingBy(PostRepository.PostTagRow::getId, LinkedHashMap::new, Collectors.toList()));
+        rowsByPost.forEach((id, rows) -> {
+            PostRepository.PostTagRow first = rows.getFirst();
+            Set<String> tagNames = rows.stream()
+                    .map(PostRepository.PostTagRow::getTagName)
+                    .filter(Objects::nonNull)
+                    .collect(Collectors.toSet());
+            putPost(new IndexedPost(id, first.getTitle(), first.getCategory(), tagNames));
+        });
+        log.info("Related post index loaded with {} posts and {} tags", posts.size(), postsByTag.size());
+    }
+
+    public void index(Post post) {
+        Set<String> tagNames = post.getTags().stream().map(
+                Tag::getName
+        ).collect(Collectors.toSet());
+        index(post.getId(), post.getTitle(), post.getCategory(), tagNames);
+    }
+
+    synchronized void index(UUID id, String title, Category category, Set<String> tagNames) {
+        version++;
+        IndexedPost indexed = new IndexedPost(id, title, category, tagNames);
+        putPost(indexed);
+
+        // Its score in the lists that contained it changed, and its own list may have too
+        dropListsContaining(id);
+        dropCachedList(id);
+        offerToCachedLists(indexed);
+    }
+
+    public synchronized void remove(UUID id) {
+        version++;
+        IndexedPost removed = posts.remove(id);
+        if (removed == null) return;
+
+        removed.tagKeys().forEach(tag -> removeFromPostingList(tag, id));
+        dropListsContaining(id);
+        dropCachedList(id);
+    }
+
+    /**
+     * Returns empty when the post is not indexed, otherwise up to {@code limit} (at most MAX_RELATED_POSTS)
+     * posts sharing at least one tag, best match first.
+     */
+    public Optional<List<RelatedPostResponse>> related(UUID id, int limit) {
+        IndexedPost source = posts.get(id);
+        if (source == null) return Optional.empty();
+
+        CachedRelated cached = relatedByPost.get(id);
+        if (cached == null) {
+            cached = computeAndCache(source);
+        }
+        return Optional.of(cached.top().stream()
+                                 .limit(limit)
+                                 .map(Candidate::toResponse)
+                                 .toList());
+    }
+
+    // The new entry replaces the old one in a single put, so concurrent lookups always find the post
+    private void putPost(IndexedPost indexed) {
+        IndexedPost previous = posts.put(indexed.id(), indexed);
+
+        indexed.tagKeys().forEach(
+                tag -> postsByTag.computeIfAbsent(tag, key -> ConcurrentHashMap.newKeySet()).add(indexed.id())
+        );
+        if (previous != null) {
+            previous.tagKeys().stream()
+                    .filter(tag -> !indexed.tagKeys().contains(tag))
+                    .forEach(tag -> removeFromPostingList(tag, indexed.id()));
+        }
+    }
+
+    private CachedRelated computeAndCache(IndexedPost source) {
+        // Taken under the lock so a write still in progress finishes first, its changes are then visible to the scan
+        long seenVersion;
+        synchronized (this) {
+            seenVersion = version;
+        }
+
+        // Size of the intersection with every post sharing at least one tag
+        Map<UUID, Integer> sharedTags = new HashMap<>();
+        for (String tag : source.tagKeys()) {
+            for (UUID candidate : postsByTag.getOrDefault(tag, Set.of())) {
+                if (!candidate.equals(source.id())) {
+                    sharedTags.merge(candidate, 1, Integer::sum);
+                }
+            }
+        }
+
+        // Heap with the worst of the best MAX_RELATED_POSTS seen so far on top
+        PriorityQueue<Candidate> best = new PriorityQueue<>(MAX_RELATED_POSTS + 1, RANKING.reversed());
+        sharedTags.forEach((candidateId, shared) -> {
+            IndexedPost candidate = posts.get(candidateId);
+            if (candidate == null) return; // removed concurrently
+
+            best.offer(Candidate.of(source, candidate, shared));
+            if (best.size() > MAX_RELATED_POSTS) {
+                best.poll();
+            }
+        });
+
+        List<Candidate> top = new ArrayList<>(best);
+        top.sort(RANKING);
+        CachedRelated computed = new CachedRelated(List.copyOf(top), sharedTags.size() <= MAX_RELATED_POSTS);
+
+        synchronized (this) {
+            // A write during the scan may have made the result stale, it is still fine to return once
+            if (version == seenVersion) {
+                relatedByPost.put(source.id(), computed);
+                computed.top().forEach(
+                        candidate -> listedIn.computeIfAbsent(candidate.post().id(), key -> new HashSet<>()).add(source.id())
+                );
+            }
+        }
+        return computed;
+    }
+
+    private void offerToCachedLists(IndexedPost changed) {
+        // Walk whichever is smaller: the cached lists or the posts sharing a tag with the changed one
+        int sharingTag = changed.tagKeys().stream().mapToInt(tag -> postsByTag.getOrDefault(tag, Set.of()).size()).sum();
+        Collection<UUID> owners = relatedByPost.size() <= sharingTag
+                ? relatedByPost.keySet()
+                : changed.tagKeys().stream()
+                         .flatMap(tag -> postsByTag.getOrDefault(tag, Set.of()).stream())
+                         .collect(Collectors.toSet());
+
+        for (UUID ownerId : owners) {
+            CachedRelated cached = relatedByPost.get(ownerId);
+            IndexedPost owner = posts.get(ownerId);
+            if (cached == null || owner == null || ownerId.equals(changed.id())) continue;
+
+            int shared = (int) changed.tagKeys().stream().filter(owner.tagKeys()::contains).count();
+            if (shared == 0) continue;
+
+            Candidate candidate = Candidate.of(owner, changed, shared);
+            // Unlisted posts rank after every entry of an incomplete list, so it can only go in ahead of the last
+            if (!cached.complete() && RANKING.compare(candidate, cached.top().getLast()) >= 0) continue;
+
+            List<Candidate> top = new ArrayList<>(cached.top());
+            top.add(candidate);
+            top.sort(RANKING);
+            boolean complete = cached.complete();
+            if (top.size() > MAX_RELATED_POSTS) {
+                Candidate dropped = top.removeLast();
+                unlist(dropped.post().id(), ownerId);
+                complete = false;
+            }
+            relatedByPost.put(ownerId, new CachedRelated(List.copyOf(top), complete));
+            listedIn.computeIfAbsent(changed.id(), key -> new HashSet<>()).add(ownerId);
+        }
+    }
+
+    private void dropListsContaining(UUID id) {
+        Set<UUID> owners = listedIn.remove(id);
+        if (owners != null) {
+            owners.forEach(this::dropCachedList);
+        }
+    }
+
+    private void dropCachedList(UUID ownerId) {
+        CachedRelated cached = relatedByPost.remove(ownerId);
+        if (cached != null) {
+            cached.top().forEach(candidate -> unlist(candidate.post().id(), ownerId));
+        }
+    }
+
+    private void unlist(UUID listedId, UUID ownerId) {
+        Set<UUID> owners = listedIn.get(listedId);
+        if (owners != null) {
+            owners.remove(ownerId);
+            if (owners.isEmpty()) {
+                listedIn.remove(listedId);
+            }
+        }
+    }
+
+    private void removeFromPostingList(String tag, UUID id) {
+        postsByTag.computeIfPresent(tag, (key, ids) -> {
+            ids.remove(id);
+            return ids.isEmpty() ? null : ids;
+        });
+    }
+
+    private record IndexedPost(UUID id, String title, Category category, Set<String> tags, Set<String> tagKeys) {
+        IndexedPost(UUID id, String title, Category category, Set<String> tags) {
+            this(id, title, category, Set.copyOf(tags), tags.stream().map(
+                    name -> name.trim().toLowerCase(Locale.ROOT)
+            ).collect(Collectors.toUnmodifiableSet()));
+        }
+    }
+
+    private record Candidate(IndexedPost post, double score, boolean sameCategory) {
+        static Candidate of(IndexedPost source, IndexedPost candidate, int sharedTags) {
+            int union = source.tagKeys().size() + candidate.tagKeys().size() - sharedTags;
+            return new Candidate(candidate, (double) sharedTags / union, candidate.category() == source.category());
+        }
+
+        RelatedPostResponse toResponse() {
+            return new RelatedPostResponse(post.id(), post.title(), post.category().getDisplayName(), post.tags(), score);
+        }
+    }
+
+    /**
+     * Best related posts, best first. When complete it holds every post sharing a tag.
+     */
+    private record CachedRelated(List<Candidate> top, boolean complete) {
+    }
+}
@@ -0,0 +1,195 @@
+package com.senibo.blogApi.index;
+
+import com.senibo.blogApi.dto.TagSuggestionResponse;
+import com.senibo.blogApi.repository.TagRepository;
+import jakarta.annotation.PostConstruct;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.PriorityQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * In-memory, sorted index of tag names with the number of posts using each tag, so suggestions never hit the database.
+ * Short prefixes (the first keystrokes, which match the most tags) answer from a cached top list kept up to date as
+ * counts change; longer prefixes range-scan the keys sharing the prefix.
+ * Kept in sync by PostServiceImpl on create/update/delete and loaded from the database before requests are served.
+ */
+@Component
+public class TagSuggestionIndex {
+
+    public static final int MAX_SUGGESTIONS = 50;
+    static final int CACHED_PREFIX_LENGTH = 3;
+    // Extra depth lets listed tags lose usage without forcing a rescan until fewer than MAX_SUGGESTIONS are known
+    private static final int CACHE_DEPTH = 2 * MAX_SUGGESTIONS;
+
+    private static final Logger log = LoggerFactory.getLogger(TagSuggestionIndex.class);
+
+    // Best suggestion first: most used, then alphabetically
+    private static final Comparator<TagSuggestionResponse> RANKING = Comparator
+            .comparingInt(TagSuggestionResponse::usageCount).reversed()
+            .thenComparing(TagSuggestionResponse::name);
+
+    private volatile NavigableMap<String, Entry> entries = new ConcurrentSkipListMap<>();
+    // Best tags per short prefix, built on first lookup. Values are immutable and replaced under compute()
+    private final Map<String, CachedTop> topByShortPrefix = new ConcurrentHashMap<>();
+    private final TagRepository tagRepository;
+
+    public TagSuggestionIndex(TagRepository tagRepository) {
+        this.tagRepository = tagRepository;
+    }
+
+    // Runs while the context starts, before the web server accepts requests, so no post writes race the load
+    @PostConstruct
+    public void load() {
+        NavigableMap<String, Entry> loaded = new ConcurrentSkipListMap<>();
+        tagRepository.countPostsPerTag().forEach(
+                // Names differing only in case share one entry, so their counts add up
+                usage -> loaded.computeIfAbsent(key(usage.getName()), key -> new Entry(usage.getName()))
+                               .usage.addAndGet(Math.toIntExact(usage.getPostCount()))
+        );
+        entries = loaded;
+        topByShortPrefix.clear();
+        log.info("Tag suggestion index loaded with {} tags", loaded.size());
+    }
+
+    public void recordUsage(Collection<String> tagNames) {
+        tagNames.forEach(name -> {
+            Entry entry = entries.computeIfAbsent(key(name), key -> new Entry(name));
+            entry.usage.incrementAndGet();
+            refreshCachedPrefixes(entry, true);
+        });
+    }
+
+    public void releaseUsage(Collection<String> tagNames) {
+        tagNames.forEach(name -> {
+            Entry entry = entries.get(key(name));
+            if (entry != null) {
+                entry.usage.getAndUpdate(count -> Math.max(0, count - 1));
+                refreshCachedPrefixes(entry, false);
+            }
+        });
+    }
+
+    public List<TagSuggestionResponse> suggest(String prefix, int limit) {
+        String from = key(prefix);
+        int boundedLimit = Math.min(limit, MAX_SUGGESTIONS);
+
+        List<TagSuggestionResponse> top = from.length() <= CACHED_PREFIX_LENGTH && matchesAnyTag(from)
+                ? topByShortPrefix.computeIfAbsent(from, key -> scan(key, CACHE_DEPTH)).top()
+                : scan(from, boundedLimit).top();
+        return top.size() <= boundedLimit ? top : top.subList(0, boundedLimit);
+    }
+
+    // Only prefixes of real tags are cached, so lookups for arbitrary prefixes cannot grow the cache
+    private boolean matchesAnyTag(String from) {
+        String first = entries.ceilingKey(from);
+        return first != null && first.startsWith(from);
+    }
+
+    int cachedPrefixCount() {
+        return topByShortPrefix.size();
+    }
+
+    private CachedTop scan(String from, int depth) {
+        // Every key starting with the prefix sorts before prefix + the highest char
+        NavigableMap<String, Entry> matches = entries.subMap(from, true, from + Character.MAX_VALUE, false);
+
+        // Heap with the worst of the best `depth` seen so far on top. Counts are snapshotted as they may change
+        PriorityQueue<TagSuggestionResponse> best = new PriorityQueue<>(depth + 1, RANKING.reversed());
+        boolean complete = true;
+        for (Entry entry : matches.values()) {
+            TagSuggestionResponse suggestion = entry.snapshot();
+            if (suggestion.usageCount() == 0) continue; // no post uses it any more
+
+            best.offer(suggestion);
+            if (best.size() > depth) {
+                best.poll();
+                complete = false;
+            }
+        }
+
+        List<TagSuggestionResponse> top = new ArrayList<>(best);
+        top.sort(RANKING);
+        return new CachedTop(List.copyOf(top), complete);
+    }
+
+    private void refreshCachedPrefixes(Entry entry, boolean increased) {
+        String key = key(entry.name);
+        for (int length = 1; length <= Math.min(key.length(), CACHED_PREFIX_LENGTH); length++) {
+            // Reads the count inside compute() so concurrent changes to the same prefix apply in order
+            topByShortPrefix.computeIfPresent(key.substring(0, length),
+                                              (prefix, top) -> updatedTop(top, entry.snapshot(), increased));
+        }
+    }
+
+    /**
+     * Returns the cached top list with the tag's new count applied, or null to drop it once fewer than
+     * MAX_SUGGESTIONS tags are known to be the best, as the ones that follow are unknown without a scan.
+     * An incomplete list relies on every unlisted tag ranking after every listed one.
+     */
+    private static CachedTop updatedTop(CachedTop cached, TagSuggestionResponse changed, boolean increased) {
+        boolean listed = cached.top().stream().anyMatch(suggestion -> suggestion.name().equals(changed.name()));
+        if (!listed && !increased) return cached; // still ranks after every listed tag
+
+        List<TagSuggestionResponse> updated = new ArrayList<>(cached.top().size() + 1);
+        cached.top().stream().filter(suggestion -> !suggestion.name().equals(changed.name())).forEach(updated::add);
+
+        // Tags no post uses are not suggested, so a listed one leaves the list like a removed tag
+        if (changed.usageCount() == 0) {
+            if (!cached.complete() && updated.size() < MAX_SUGGESTIONS) return null;
+            return new CachedTop(List.copyOf(updated), cached.complete());
+        }
+
+        // In an incomplete list a tag may only be placed before the last listed one, unlisted tags may rank between
+        // A listed tag gaining usage only moves up, so it stays ahead of the unlisted ones
+        boolean known = cached.complete() || listed && increased
+                || updated.isEmpty() || RANKING.compare(changed, updated.getLast()) < 0;
+        if (!known) {
+            if (!listed) return cached;
+            return updated.size() < MAX_SUGGESTIONS ? null : new CachedTop(List.copyOf(updated), false);
+        }
+
+        updated.add(changed);
+        updated.sort(RANKING);
+        boolean complete = cached.complete();
+        if (updated.size() > CACHE_DEPTH) {
+            updated.removeLast();
+            complete = false;
+        }
+        return new CachedTop(List.copyOf(updated), complete);
+    }
+
+    /**
+     * Best tags for a prefix, best first. When complete it holds every used tag with the prefix.
+     */
+    private record CachedTop(List<TagSuggestionResponse> top, boolean complete) {
+    }
+
+    private static String key(String name) {
+        return name.trim().toLowerCase(Locale.ROOT);
+    }
+
+    private static final class Entry {
+        private final String name;
+        private final AtomicInteger usage = new AtomicInteger();
+
+        private Entry(String name) {
+            this.name = name;
+        }
+
+        private TagSuggestionResponse snapshot() {
+            return new TagSuggestionResponse(name, usage.get());
+        }
+    }
+}
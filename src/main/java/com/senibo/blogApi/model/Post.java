@@ -1,5 +1,6 @@
 package com.senibo.blogApi.model;
 
+import com.senibo.blogApi.converters.CompressedContentConverter;
 import jakarta.persistence.*;
 import lombok.*;
 import org.hibernate.annotations.CreationTimestamp;
@@ -25,6 +26,10 @@ public class Post {
     private UUID id;
 
     private String title;
+
+    // Large bodies may be stored compressed, see blog.content.compression.* in application.properties
+    @Convert(converter = CompressedContentConverter.class)
+    @Column(columnDefinition = "MEDIUMTEXT")
     private String content;
 
     @Enumerated(EnumType.STRING)
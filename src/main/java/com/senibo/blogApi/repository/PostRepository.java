@@ -1,5 +1,6 @@
 package com.senibo.blogApi.repository;
 
+import com.senibo.blogApi.model.Category;
 import com.senibo.blogApi.model.Post;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
@@ -17,4 +18,19 @@ public interface PostRepository extends JpaRepository<Post, UUID> {
             "LOWER(p.content) LIKE LOWER(CONCAT('%', :searchTerm, '%')) OR " +
             "LOWER(p.category) LIKE LOWER(CONCAT('%', :searchTerm, '%'))")
     List<Post> findBySearchTerm(@Param("searchTerm") String searchTerm);
+
+    // One row per post and tag, without loading (and decompressing) the content
+    @Query("SELECT p.id AS id, p.title AS title, p.category AS category, t.name AS tagName " +
+            "FROM Post p LEFT JOIN p.tags t")
+    List<PostTagRow> findAllPostTagRows();
+
+    interface PostTagRow {
+        UUID getId();
+
+        String getTitle();
+
+        Category getCategory();
+
+        String getTagName();
+    }
 }
@@ -2,11 +2,23 @@ package com.senibo.blogApi.repository;
 
 import com.senibo.blogApi.model.Tag;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
 import org.springframework.stereotype.Repository;
 
+import java.util.List;
 import java.util.Optional;
 
 @Repository
 public interface TagRepository extends JpaRepository<Tag,Long> {
     Optional<Tag> findByName(String name);
+
+    // Tags no post uses are left out
+    @Query("SELECT t.name AS name, COUNT(p) AS postCount FROM Tag t JOIN t.posts p GROUP BY t.name")
+    List<TagUsage> countPostsPerTag();
+
+    interface TagUsage {
+        String getName();
+
+        long getPostCount();
+    }
 }
@@ -2,6 +2,7 @@ package com.senibo.blogApi.service;
 
 import com.senibo.blogApi.dto.PostRequest;
 import com.senibo.blogApi.dto.PostResponse;
+import com.senibo.blogApi.dto.RelatedPostResponse;
 
 import java.util.List;
 
@@ -10,6 +11,8 @@ public interface PostService {
 
     PostResponse getPostById(String id);
 
+    List<RelatedPostResponse> getRelatedPosts(String id, int limit);
+
     PostResponse createPost(PostRequest postRequest);
 
     PostResponse updatePost(String id, PostRequest postRequest);
@@ -0,0 +1,9 @@
+package com.senibo.blogApi.service;
+
+import com.senibo.blogApi.dto.TagSuggestionResponse;
+
+import java.util.List;
+
+public interface TagService {
+    List<TagSuggestionResponse> suggestTags(String prefix, int limit);
+}
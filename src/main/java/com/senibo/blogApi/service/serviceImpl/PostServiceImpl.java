@@ -2,7 +2,10 @@ package com.senibo.blogApi.service.serviceImpl;
 
 import com.senibo.blogApi.dto.PostRequest;
 import com.senibo.blogApi.dto.PostResponse;
+import com.senibo.blogApi.dto.RelatedPostResponse;
 import com.senibo.blogApi.exceptions.PostNotFoundException;
+import com.senibo.blogApi.index.RelatedPostIndex;
+import com.senibo.blogApi.index.TagSuggestionIndex;
 import com.senibo.blogApi.model.Post;
 import com.senibo.blogApi.model.Tag;
 import com.senibo.blogApi.repository.PostRepository;
@@ -10,8 +13,11 @@ import com.senibo.blogApi.repository.TagRepository;
 import com.senibo.blogApi.service.PostService;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
 
+import java.time.Duration;
 import java.util.List;
 import java.util.Set;
 import java.util.UUID;
@@ -23,15 +29,48 @@ public class PostServiceImpl implements PostService {
     private static final Logger log = LoggerFactory.getLogger(PostServiceImpl.class);
     private final PostRepository postRepository;
     private final TagRepository tagRepository;
+    private final TagSuggestionIndex tagSuggestionIndex;
+    private final RelatedPostIndex relatedPostIndex;
+
+    // Identical concurrent reads share one database fetch, see blog.reads.coalescing.* in application.properties
+    private final SingleFlight<UUID, PostResponse> postFetches;
+    private final SingleFlight<String, List<PostResponse>> postListFetches;
 
     public PostServiceImpl(PostRepository postRepository,
-                           TagRepository tagRepository) {
+                           TagRepository tagRepository,
+                           TagSuggestionIndex tagSuggestionIndex,
+                           RelatedPostIndex relatedPostIndex,
+                           @Value("${blog.reads.coalescing.max-wait-ms:2000}") long coalescingMaxWaitMs) {
         this.postRepository = postRepository;
         this.tagRepository = tagRepository;
+        this.tagSuggestionIndex = tagSuggestionIndex;
+        this.relatedPostIndex = relatedPostIndex;
+        this.postFetches = new SingleFlight<>("getPostById", Duration.ofMillis(coalescingMaxWaitMs));
+        this.postListFetches = new SingleFlight<>("getAllPosts", Duration.ofMillis(coalescingMaxWaitMs));
     }
 
     @Override
     public List<PostResponse> getAllPosts(String searchTerm) {
+        // All calls without a search term share the "" key
+        String key = searchTerm != null && !searchTerm.isBlank() ? searchTerm : "";
+
+        return postListFetches.execute(key, () -> findPosts(searchTerm));
+    }
+
+    @Override
+    public PostResponse getPostById(String id) {
+        UUID postId = UUID.fromString(id);
+
+        return postFetches.execute(postId, () -> {
+            Post singlePost = postRepository.findById(postId).orElseThrow(
+                    () -> new PostNotFoundException("Post with id: " + id + " not found")
+            );
+
+            return toPostResponse(singlePost);
+        });
+    }
+
+    private List<PostResponse> findPosts(String searchTerm) {
 
         List<Post> posts;
 
@@ -43,18 +82,19 @@ public class PostServiceImpl implements PostService {
             log.info("No search term provided, returning all posts");
         }
 
+        // Unmodifiable, as the list may be shared by coalesced callers
         return posts.stream().map(
                 this::toPostResponse
-        ).collect(Collectors.toList());
+        ).toList();
     }
 
     @Override
-    public PostResponse getPostById(String id) {
-        Post singlePost = postRepository.findById(UUID.fromString(id)).orElseThrow(
+    public List<RelatedPostResponse> getRelatedPosts(String id, int limit) {
+        int boundedLimit = Math.clamp(limit, 1, RelatedPostIndex.MAX_RELATED_POSTS);
+
+        return relatedPostIndex.related(UUID.fromString(id), boundedLimit).orElseThrow(
                 () -> new PostNotFoundException("Post with id: " + id + " not found")
         );
-
-        return toPostResponse(singlePost);
     }
 
     @Override
@@ -70,6 +110,9 @@ public class PostServiceImpl implements PostService {
         post.setTags(tags);
 
         Post newPost = postRepository.save(post);
+        tagSuggestionIndex.recordUsage(tagNames(newPost));
+        relatedPostIndex.index(newPost);
+        postListFetches.forgetAll();
 
         log.info("New post has been saved successfully, {}", newPost);
 
@@ -85,12 +128,18 @@ public class PostServiceImpl implements PostService {
         singlePost.setTitle(postRequest.getTitle());
         singlePost.setContent(postRequest.getContent());
         singlePost.setCategory(postRequest.getCategory());
-        
+
+        Set<String> previousTagNames = tagNames(singlePost);
+
         // Fixed: Use the same tag handling logic as createPost
         Set<Tag> tags = getOrCreateTags(postRequest.getTags());
         singlePost.setTags(tags);
 
         Post post = postRepository.save(singlePost);
+        tagSuggestionIndex.releaseUsage(previousTagNames);
+        tagSuggestionIndex.recordUsage(tagNames(post));
+        relatedPostIndex.index(post);
+        forgetInFlightReads(post.getId());
 
         return toPostResponse(post);
     }
@@ -101,7 +150,18 @@ public class PostServiceImpl implements PostService {
                 () -> new PostNotFoundException("Post with id: " + id + " not found")
         );
 
+        Set<String> tagNames = tagNames(singlePost);
+
         postRepository.delete(singlePost);
+        tagSuggestionIndex.releaseUsage(tagNames);
+        relatedPostIndex.remove(singlePost.getId());
+        forgetInFlightReads(singlePost.getId());
+    }
+
+    // Readers arriving after a write must not join a fetch that started before it
+    private void forgetInFlightReads(UUID postId) {
+        postFetches.forget(postId);
+        postListFetches.forgetAll();
     }
 
     // Extract common tag handling logic into a separate method
@@ -114,6 +174,21 @@ public class PostServiceImpl implements PostService {
                       }).collect(Collectors.toSet());
     }
 
+    @Scheduled(fixedRateString = "${blog.reads.coalescing.stats-interval-ms:60000}",
+               initialDelayString = "${blog.reads.coalescing.stats-interval-ms:60000}")
+    public void logReadCoalescingStats() {
+        for (SingleFlight<?, ?> fetches : List.of(postFetches, postListFetches)) {
+            log.info("{}: {} database fetches, {} saved by read coalescing, {} slow fetch takeovers (since startup)",
+                     fetches.getName(), fetches.getLoads(), fetches.getSaved(), fetches.getTakeovers());
+        }
+    }
+
+    private Set<String> tagNames(Post post) {
+        return post.getTags().stream().map(
+                Tag::getName
+        ).collect(Collectors.toSet());
+    }
+
     private PostResponse toPostResponse(Post singlePost) {
         return new PostResponse(
                 singlePost.getId(),
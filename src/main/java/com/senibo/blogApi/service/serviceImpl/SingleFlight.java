@@ -0,0 +1,137 @@
+package com.senibo.blogApi.service.serviceImpl;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+
+/**
+ * Coalesces concurrent identical reads: the first caller for a key runs the loader, callers arriving
+ * while it is in flight wait and share its result or exception.
+ * Nothing is cached once the load completes. Writers call {@link #forget} so readers arriving after
+ * the write start a fresh load instead of joining one that may have read stale data.
+ * <p>
+ * A load still running maxWait after it started is taken over by the first waiter to notice, which starts a new
+ * load the remaining waiters join, so a slow database sees at most one extra query per key and maxWait.
+ */
+class SingleFlight<K, V> {
+
+    private static final Logger log = LoggerFactory.getLogger(SingleFlight.class);
+    private final String name;
+    private final Duration maxWait;
+    private final ConcurrentMap<K, Flight<V>> inFlight = new ConcurrentHashMap<>();
+    private final LongAdder loads = new LongAdder();
+    private final LongAdder joined = new LongAdder();
+    private final LongAdder takeovers = new LongAdder();
+
+    SingleFlight(String name, Duration maxWait) {
+        this.name = name;
+        this.maxWait = maxWait;
+    }
+
+    V execute(K key, Supplier<V> loader) {
+        Flight<V> call = new Flight<>();
+        Flight<V> existing = inFlight.putIfAbsent(key, call);
+        if (existing == null) {
+            return load(key, call, loader);
+        }
+
+        joined.increment();
+        while (true) {
+            try {
+                // The wait is bounded from the start of the load, not from when this caller joined it
+                long remainingNanos = existing.startedNanos() + maxWait.toNanos() - System.nanoTime();
+                return existing.result().get(Math.max(0, remainingNanos), TimeUnit.NANOSECONDS);
+            } catch (ExecutionException e) {
+                throw rethrow(e.getCause());
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new IllegalStateException("Interrupted while waiting for " + name + " load of " + key, e);
+            } catch (TimeoutException e) {
+                if (existing.result().isDone()) continue; // finished just after the timeout
+
+                // Only one waiter replaces the slow load, the others join the new one
+                call = new Flight<>();
+                if (inFlight.replace(key, existing, call)) {
+                    takeovers.increment();
+                    log.warn("{}: load for {} exceeded {} ms, starting a new one", name, key, maxWait.toMillis());
+                    return load(key, call, loader);
+                }
+                Flight<V> current = inFlight.putIfAbsent(key, call);
+                if (current == null) {
+                    // The slow load finished or was forgotten meanwhile
+                    takeovers.increment();
+                    return load(key, call, loader);
+                }
+                existing = current;
+            }
+        }
+    }
+
+    void forget(K key) {
+        inFlight.remove(key);
+    }
+
+    void forgetAll() {
+        inFlight.clear();
+    }
+
+    // Calls that ran the loader
+    long getLoads() {
+        return loads.sum();
+    }
+
+    // Calls that waited on another caller's load, including those that later took it over
+    long getJoined() {
+        return joined.sum();
+    }
+
+    // Waiters that ran the loader themselves after the load they joined exceeded maxWait
+    long getTakeovers() {
+        return takeovers.sum();
+    }
+
+    // Database calls avoided by sharing a load
+    long getSaved() {
+        return getJoined() - getTakeovers();
+    }
+
+    String getName() {
+        return name;
+    }
+
+    private V load(K key, Flight<V> call, Supplier<V> loader) {
+        loads.increment();
+        try {
+            V value = loader.get();
+            call.result().complete(value);
+            return value;
+        } catch (RuntimeException | Error e) {
+            call.result().completeExceptionally(e);
+            throw e;
+        } finally {
+            // Only remove our own call, a writer or a takeover may already have replaced it
+            inFlight.remove(key, call);
+        }
+    }
+
+    private record Flight<V>(CompletableFuture<V> result, long startedNanos) {
+        Flight() {
+            this(new CompletableFuture<>(), System.nanoTime());
+        }
+    }
+
+    private static RuntimeException rethrow(Throwable cause) {
+        if (cause instanceof RuntimeException runtimeException) return runtimeException;
+        if (cause instanceof Error error) throw error;
+        return new IllegalStateException(cause);
+    }
+}
@@ -0,0 +1,28 @@
+package com.senibo.blogApi.service.serviceImpl;
+
+import com.senibo.blogApi.dto.TagSuggestionResponse;
+import com.senibo.blogApi.index.TagSuggestionIndex;
+import com.senibo.blogApi.service.TagService;
+import org.springframework.stereotype.Service;
+
+import java.util.List;
+
+@Service
+public class TagServiceImpl implements TagService {
+
+    private final TagSuggestionIndex tagSuggestionIndex;
+
+    public TagServiceImpl(TagSuggestionIndex tagSuggestionIndex) {
+        this.tagSuggestionIndex = tagSuggestionIndex;
+    }
+
+    @Override
+    public List<TagSuggestionResponse> suggestTags(String prefix, int limit) {
+        if (prefix == null || prefix.isBlank()) {
+            return List.of();
+        }
+
+        int boundedLimit = Math.clamp(limit, 1, TagSuggestionIndex.MAX_SUGGESTIONS);
+        return tagSuggestionIndex.suggest(prefix, boundedLimit);
+    }
+}
@@ -0,0 +1,55 @@
+package com.senibo.blogApi.converters;
+
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Random;
+
+/**
+ * Storage saved and the decompression cost added to every read of a compressed body.
+ * Run with ./mvnw test -Dgroups=benchmark -DexcludedGroups= -Dtest=CompressedContentConverterBenchmark
+ */
+@Tag("benchmark")
+class CompressedContentConverterBenchmark {
+
+    private static final String[] WORDS = ("the a of and to in is that for it on with as was be by this are or from at an "
+            + "spring boot java service request response database query index cache latency thread memory post article "
+            + "reader writer performance table column row server client application framework design pattern system "
+            + "data value result error test build deploy production user content category tag search page order time")
+            .split(" ");
+
+    @Test
+    void measureStorageAndDecodeCost() {
+        CompressedContentConverter converter = new CompressedContentConverter(true, 4096);
+        Random random = new Random(42);
+
+        System.out.printf("%10s %10s %10s %8s %14s%n", "chars", "utf8 B", "stored B", "ratio", "decode us/op");
+        for (int chars : new int[]{4_096, 16_384, 65_536, 262_144}) {
+            String content = article(random, chars);
+            String stored = converter.convertToDatabaseColumn(content);
+
+            int iterations = 2_000_000 / chars * 10;
+            for (int i = 0; i < iterations; i++) { // warm-up
+                converter.convertToEntityAttribute(stored);
+            }
+            long start = System.nanoTime();
+            for (int i = 0; i < iterations; i++) {
+                converter.convertToEntityAttribute(stored);
+            }
+            double microsPerOp = (System.nanoTime() - start) / 1_000.0 / iterations;
+
+            int plainBytes = content.getBytes(StandardCharsets.UTF_8).length;
+            System.out.printf("%10d %10d %10d %8.2f %14.1f%n",
+                              chars, plainBytes, stored.length(), (double) plainBytes / stored.length(), microsPerOp);
+        }
+    }
+
+    private static String article(Random random, int chars) {
+        StringBuilder text = new StringBuilder(chars + 16);
+        while (text.length() < chars) {
+            text.append(WORDS[random.nextInt(WORDS.length)]).append(random.nextInt(12) == 0 ? ". " : " ");
+        }
+        return text.substring(0, chars);
+    }
+}
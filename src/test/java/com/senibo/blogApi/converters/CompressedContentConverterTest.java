@@ -0,0 +1,78 @@
+package com.senibo.blogApi.converters;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class CompressedContentConverterTest {
+
+    private static final int THRESHOLD = 100;
+    private final CompressedContentConverter converter = new CompressedContentConverter(true, THRESHOLD);
+
+    @Test
+    void compressesLargeContentAndReadsItBack() {
+        String content = "Spring Boot simplifies Java backend development. ".repeat(20);
+
+        String stored = converter.convertToDatabaseColumn(content);
+
+        assertThat(stored).startsWith(CompressedContentConverter.HEADER);
+        assertThat(stored.length()).isLessThan(content.length());
+        assertThat(converter.convertToEntityAttribute(stored)).isEqualTo(content);
+    }
+
+    @Test
+    void keepsContentBelowThresholdPlain() {
+        String content = "Short post body";
+
+        assertThat(converter.convertToDatabaseColumn(content)).isEqualTo(content);
+    }
+
+    @Test
+    void keepsContentPlainWhenDisabled() {
+        CompressedContentConverter disabled = new CompressedContentConverter(false, THRESHOLD);
+        String content = "Spring Boot simplifies Java backend development. ".repeat(20);
+
+        assertThat(disabled.convertToDatabaseColumn(content)).isEqualTo(content);
+    }
+
+    @Test
+    void compressesPlainTextStartingWithHeaderSoItIsNotMisread() {
+        String content = CompressedContentConverter.HEADER + " is how compressed rows start";
+
+        String stored = converter.convertToDatabaseColumn(content);
+
+        assertThat(stored).isNotEqualTo(content);
+        assertThat(converter.convertToEntityAttribute(stored)).isEqualTo(content);
+    }
+
+    @Test
+    void compressesPlainTextStartingWithHeaderEvenWhenDisabled() {
+        CompressedContentConverter disabled = new CompressedContentConverter(false, THRESHOLD);
+        String content = CompressedContentConverter.HEADER + " is how compressed rows start";
+
+        assertThat(disabled.convertToEntityAttribute(disabled.convertToDatabaseColumn(content))).isEqualTo(content);
+    }
+
+    @Test
+    void readsLegacyUncompressedRowsUnchanged() {
+        String legacy = "Post written before compression existed. ".repeat(20);
+
+        assertThat(converter.convertToEntityAttribute(legacy)).isEqualTo(legacy);
+    }
+
+    @Test
+    void readsCompressedRowsAfterCompressionIsDisabled() {
+        String content = "Spring Boot simplifies Java backend development. ".repeat(20);
+        String stored = converter.convertToDatabaseColumn(content);
+
+        CompressedContentConverter disabled = new CompressedContentConverter(false, THRESHOLD);
+
+        assertThat(disabled.convertToEntityAttribute(stored)).isEqualTo(content);
+    }
+
+    @Test
+    void passesNullThrough() {
+        assertThat(converter.convertToDatabaseColumn(null)).isNull();
+        assertThat(converter.convertToEntityAttribute(null)).isNull();
+    }
+}
@@ -0,0 +1,117 @@
+package com.senibo.blogApi.index;
+
+import com.senibo.blogApi.model.Category;
+import com.senibo.blogApi.repository.PostRepository;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.Random;
+import java.util.Set;
+import java.util.UUID;
+
+import static org.mockito.Mockito.mock;
+
+/**
+ * Build, update and lookup cost of exact Jaccard ranking with cached top lists at large corpus sizes.
+ * Run with ./mvnw test -Dgroups=benchmark -DexcludedGroups= -Dtest=RelatedPostIndexBenchmark -DargLine=-Xmx3g
+ */
+@Tag("benchmark")
+class RelatedPostIndexBenchmark {
+
+    private static final int VOCABULARY = 20_000;
+    private static final int HOT_POSTS = 1_000;
+    private static final Category[] CATEGORIES = Category.values();
+
+    @Test
+    void measureAtLargeCorpusSizes() {
+        for (int corpus : new int[]{100_000, 1_000_000}) {
+            measure(corpus);
+        }
+    }
+
+    private static void measure(int corpus) {
+        Random random = new Random(42);
+        double[] zipf = zipfCumulative(VOCABULARY);
+        RelatedPostIndex index = new RelatedPostIndex(mock(PostRepository.class));
+        UUID[] ids = new UUID[corpus];
+
+        long buildStart = System.nanoTime();
+        for (int i = 0; i < corpus; i++) {
+            ids[i] = new UUID(0, i);
+            index.index(ids[i], "Post " + i, CATEGORIES[random.nextInt(CATEGORIES.length)], randomTags(random, zipf));
+        }
+        System.out.printf("%,d posts: build %.1f s%n", corpus, (System.nanoTime() - buildStart) / 1e9);
+
+        // First lookups scan the posting lists and cache the result, these posts are the hot set afterwards
+        UUID[] hot = new UUID[HOT_POSTS];
+        long[] coldNanos = new long[HOT_POSTS];
+        for (int i = 0; i < HOT_POSTS; i++) {
+            hot[i] = ids[random.nextInt(corpus)];
+            long start = System.nanoTime();
+            index.related(hot[i], 10);
+            coldNanos[i] = System.nanoTime() - start;
+        }
+        report("  first lookup (scan + cache)", coldNanos);
+
+        int cachedLookups = 1_000_000;
+        long cachedStart = System.nanoTime();
+        for (int i = 0; i < cachedLookups; i++) {
+            index.related(hot[i % HOT_POSTS], 10);
+        }
+        System.out.printf("  cached lookup: %.2f us/op%n", (System.nanoTime() - cachedStart) / 1e3 / cachedLookups);
+
+        // Updates of random posts, each is offered to the cached lists and drops the lists it was in
+        int updates = 2_000;
+        long[] updateNanos = new long[updates];
+        for (int i = 0; i < updates; i++) {
+            UUID id = ids[random.nextInt(corpus)];
+            Set<String> tags = randomTags(random, zipf);
+            long start = System.nanoTime();
+            index.index(id, "Updated " + i, CATEGORIES[random.nextInt(CATEGORIES.length)], tags);
+            updateNanos[i] = System.nanoTime() - start;
+        }
+        report("  update with " + HOT_POSTS + " cached lists", updateNanos);
+
+        long[] afterNanos = new long[HOT_POSTS];
+        for (int i = 0; i < HOT_POSTS; i++) {
+            long start = System.nanoTime();
+            index.related(hot[i], 10);
+            afterNanos[i] = System.nanoTime() - start;
+        }
+        report("  hot lookup after " + updates + " updates", afterNanos);
+    }
+
+    private static void report(String label, long[] nanos) {
+        long[] sorted = nanos.clone();
+        Arrays.sort(sorted);
+        System.out.printf("%s: p50 %.3f ms, p90 %.3f ms, p99 %.3f ms, max %.3f ms%n", label,
+                          sorted[sorted.length / 2] / 1e6, sorted[sorted.length * 9 / 10] / 1e6,
+                          sorted[sorted.length * 99 / 100] / 1e6, sorted[sorted.length - 1] / 1e6);
+    }
+
+    // 3-6 distinct tags per post drawn from a Zipf(1) distribution, so a few tags are on a large share of posts
+    private static Set<String> randomTags(Random random, double[] zipf) {
+        int count = 3 + random.nextInt(4);
+        Set<String> tags = new HashSet<>();
+        while (tags.size() < count) {
+            int rank = Arrays.binarySearch(zipf, random.nextDouble());
+            tags.add("tag" + (rank < 0 ? -rank - 1 : rank));
+        }
+        return tags;
+    }
+
+    private static double[] zipfCumulative(int size) {
+        double[] cumulative = new double[size];
+        double total = 0;
+        for (int i = 0; i < size; i++) {
+            total += 1.0 / (i + 1);
+            cumulative[i] = total;
+        }
+        for (int i = 0; i < size; i++) {
+            cumulative[i] /= total;
+        }
+        return cumulative;
+    }
+}
@@ -0,0 +1,289 @@
+package com.senibo.blogApi.index;
+
+import com.senibo.blogApi.dto.RelatedPostResponse;
+import com.senibo.blogApi.model.Category;
+import com.senibo.blogApi.model.Post;
+import com.senibo.blogApi.model.Tag;
+import com.senibo.blogApi.repository.PostRepository;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class RelatedPostIndexTest {
+
+    private final PostRepository postRepository = mock(PostRepository.class);
+    private final RelatedPostIndex index = new RelatedPostIndex(postRepository);
+
+    @Test
+    void ranksByTagOverlapThenSameCategory() {
+        Post source = post("Spring tips", Category.TECHNOLOGY, "java", "spring", "boot");
+        Post closest = post("Boot internals", Category.BUSINESS, "java", "spring", "boot", "jvm");
+        Post sameCategory = post("Java basics", Category.TECHNOLOGY, "java", "jvm");
+        Post otherCategory = post("Java jobs", Category.BUSINESS, "java", "career");
+        Post unrelated = post("Pasta", Category.TECHNOLOGY, "food");
+        Stream.of(source, closest, sameCategory, otherCategory, unrelated).forEach(index::index);
+
+        List<RelatedPostResponse> related = index.related(source.getId(), 10).orElseThrow();
+
+        assertThat(related).extracting(RelatedPostResponse::title)
+                           .containsExactly("Boot internals", "Java basics", "Java jobs");
+        assertThat(related.getFirst().score()).isEqualTo(3.0 / 4);
+        assertThat(related.get(1).score()).isEqualTo(related.get(2).score());
+    }
+
+    @Test
+    void limitsResults() {
+        Post source = post("Source", Category.TECHNOLOGY, "java");
+        index.index(source);
+        for (int i = 0; i < 20; i++) {
+            index.index(post("Post " + i, Category.TECHNOLOGY, "java"));
+        }
+
+        assertThat(index.related(source.getId(), 5).orElseThrow()).hasSize(5);
+    }
+
+    @Test
+    void updateReplacesTags() {
+        Post source = post("Source", Category.TECHNOLOGY, "java");
+        Post other = post("Other", Category.TECHNOLOGY, "java");
+        index.index(source);
+        index.index(other);
+
+        other.setTags(tags("python"));
+        index.index(other);
+
+        assertThat(index.related(source.getId(), 10).orElseThrow()).isEmpty();
+
+        source.setTags(tags("python"));
+        index.index(source);
+
+        assertThat(index.related(source.getId(), 10).orElseThrow())
+                .extracting(RelatedPostResponse::id).containsExactly(other.getId());
+    }
+
+    @Test
+    void cachedListsFollowCreatesUpdatesAndDeletes() {
+        Post source = post("Source", Category.TECHNOLOGY, "java", "spring");
+        Post close = post("Close", Category.TECHNOLOGY, "java", "spring");
+        index.index(source);
+        index.index(close);
+        assertThat(index.related(source.getId(), 10).orElseThrow()).hasSize(1); // cached now
+
+        Post loose = post("Loose", Category.TECHNOLOGY, "java", "jvm", "gc");
+        index.index(loose);
+        assertThat(index.related(source.getId(), 10).orElseThrow())
+                .extracting(RelatedPostResponse::title).containsExactly("Close", "Loose");
+
+        close.setTags(tags("python"));
+        index.index(close);
+        assertThat(index.related(source.getId(), 10).orElseThrow())
+                .extracting(RelatedPostResponse::title).containsExactly("Loose");
+
+        index.remove(loose.getId());
+        assertThat(index.related(source.getId(), 10).orElseThrow()).isEmpty();
+    }
+
+    @Test
+    void removeDropsPost() {
+        Post source = post("Source", Category.TECHNOLOGY, "java");
+        Post other = post("Other", Category.TECHNOLOGY, "java");
+        index.index(source);
+        index.index(other);
+
+        index.remove(other.getId());
+
+        assertThat(index.related(other.getId(), 10)).isEmpty();
+        assertThat(index.related(source.getId(), 10).orElseThrow()).isEmpty();
+    }
+
+    @Test
+    void loadGroupsRowsPerPost() {
+        UUID first = UUID.randomUUID();
+        UUID second = UUID.randomUUID();
+        when(postRepository.findAllPostTagRows()).thenReturn(List.of(
+                row(first, "First", "java"), row(first, "First", "spring"),
+                row(second, "Second", "spring"), row(UUID.randomUUID(), "Untagged", null)));
+
+        index.load();
+
+        assertThat(index.related(first, 10).orElseThrow()).singleElement().satisfies(related -> {
+            assertThat(related.id()).isEqualTo(second);
+            assertThat(related.score()).isEqualTo(0.5);
+        });
+    }
+
+    @Test
+    void concurrentUpdatesNeverHideThePost() throws InterruptedException {
+        Post source = post("Source", Category.TECHNOLOGY, "java");
+        index.index(source);
+        AtomicBoolean running = new AtomicBoolean(true);
+        Thread writer = new Thread(() -> {
+            for (int i = 0; running.get(); i++) {
+                source.setTags(tags(i % 2 == 0 ? "java" : "spring"));
+                index.index(source);
+            }
+        });
+        writer.start();
+
+        try {
+            for (int i = 0; i < 100_000; i++) {
+                assertThat(index.related(source.getId(), 5)).isPresent();
+            }
+        } finally {
+            running.set(false);
+            writer.join();
+        }
+    }
+
+    @Test
+    void postCreatedDuringLookupsEndsUpInCachedList() throws InterruptedException {
+        AtomicReference<UUID> current = new AtomicReference<>();
+        AtomicBoolean running = new AtomicBoolean(true);
+        Thread reader = new Thread(() -> {
+            while (running.get()) {
+                UUID id = current.get();
+                if (id != null) {
+                    index.related(id, 1);
+                }
+            }
+        });
+        reader.start();
+
+        try {
+            for (int i = 0; i < 20_000; i++) {
+                String tag = "tag" + i;
+                Post source = post("Source " + i, Category.TECHNOLOGY, tag);
+                index.index(source);
+                current.set(source.getId());
+                index.index(source);
+                Post twin = post("Twin " + i, Category.TECHNOLOGY, tag);
+                index.index(twin);
+
+                assertThat(index.related(source.getId(), 1).orElseThrow())
+                        .as("trial %d", i).extracting(RelatedPostResponse::id).containsExactly(twin.getId());
+            }
+        } finally {
+            running.set(false);
+            reader.join();
+        }
+    }
+
+    @Test
+    void cachedListsMatchBruteForceAfterRandomChanges() {
+        Random random = new Random(11);
+        Map<UUID, Post> live = new LinkedHashMap<>();
+        List<UUID> ids = new ArrayList<>();
+        for (int i = 0; i < 300; i++) {
+            Post post = randomPost(random, "Post " + i);
+            ids.add(post.getId());
+            live.put(post.getId(), post);
+            index.index(post);
+        }
+
+        for (int i = 0; i < 5_000; i++) {
+            UUID id = ids.get(random.nextInt(ids.size()));
+            switch (random.nextInt(4)) {
+                case 0 -> { // create or update
+                    Post post = randomPost(random, "Post " + id + " v" + i);
+                    post.setId(id);
+                    live.put(id, post);
+                    index.index(post);
+                }
+                case 1 -> {
+                    live.remove(id);
+                    index.remove(id);
+                }
+                default -> { // lookups fill the caches that later writes have to maintain
+                    if (live.containsKey(id)) {
+                        assertThat(index.related(id, RelatedPostIndex.MAX_RELATED_POSTS).orElseThrow())
+                                .as("after %d changes", i).isEqualTo(bruteForce(live.get(id), live.values()));
+                    }
+                }
+            }
+        }
+    }
+
+    private static List<RelatedPostResponse> bruteForce(Post source, Collection<Post> posts) {
+        Set<String> sourceTags = tagNames(source);
+        return posts.stream()
+                .filter(post -> !post.getId().equals(source.getId()))
+                .filter(post -> tagNames(post).stream().anyMatch(sourceTags::contains))
+                .map(post -> {
+                    Set<String> tags = tagNames(post);
+                    long shared = tags.stream().filter(sourceTags::contains).count();
+                    double score = (double) shared / (sourceTags.size() + tags.size() - shared);
+                    return new RelatedPostResponse(post.getId(), post.getTitle(), post.getCategory().getDisplayName(),
+                                                   tags, score);
+                })
+                .sorted(Comparator.comparingDouble(RelatedPostResponse::score).reversed()
+                                  .thenComparing(related -> !related.category().equals(source.getCategory().getDisplayName()))
+                                  .thenComparing(RelatedPostResponse::title))
+                .limit(RelatedPostIndex.MAX_RELATED_POSTS)
+                .toList();
+    }
+
+    private static Post randomPost(Random random, String title) {
+        String[] tagNames = new String[1 + random.nextInt(4)];
+        for (int i = 0; i < tagNames.length; i++) {
+            tagNames[i] = "tag" + random.nextInt(15);
+        }
+        return post(title, Category.values()[random.nextInt(3)], tagNames);
+    }
+
+    private static Set<String> tagNames(Post post) {
+        return post.getTags().stream().map(Tag::getName).collect(Collectors.toSet());
+    }
+
+    private static Post post(String title, Category category, String... tagNames) {
+        Post post = new Post();
+        post.setId(UUID.randomUUID());
+        post.setTitle(title);
+        post.setCategory(category);
+        post.setTags(tags(tagNames));
+        return post;
+    }
+
+    private static Set<Tag> tags(String... names) {
+        return Stream.of(names).map(Tag::new).collect(Collectors.toSet());
+    }
+
+    private static PostRepository.PostTagRow row(UUID id, String title, String tagName) {
+        return new PostRepository.PostTagRow() {
+            @Override
+            public UUID getId() {
+                return id;
+            }
+
+            @Override
+            public String getTitle() {
+                return title;
+            }
+
+            @Override
+            public Category getCategory() {
+                return Category.TECHNOLOGY;
+            }
+
+            @Override
+            public String getTagName() {
+                return tagName;
+            }
+        };
+    }
+}
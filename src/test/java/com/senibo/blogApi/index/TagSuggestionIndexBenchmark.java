@@ -0,0 +1,89 @@
+package com.senibo.blogApi.index;
+
+import com.senibo.blogApi.repository.TagRepository;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+import java.util.function.IntConsumer;
+
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * Lookup and update latency with a large tag vocabulary.
+ * Run with ./mvnw test -Dgroups=benchmark -DexcludedGroups= -Dtest=TagSuggestionIndexBenchmark
+ */
+@Tag("benchmark")
+class TagSuggestionIndexBenchmark {
+
+    private static final int TAGS = 300_000;
+
+    @Test
+    void measureSuggestAndUpdateLatency() {
+        Random random = new Random(42);
+        List<String> names = new ArrayList<>(TAGS);
+        List<TagRepository.TagUsage> usages = new ArrayList<>(TAGS);
+        for (int i = 0; i < TAGS; i++) {
+            String name = randomWord(random);
+            names.add(name);
+            long postCount = (long) (10_000 / Math.pow(i + 1, 0.8)); // long-tail usage
+            usages.add(new Usage(name, postCount));
+        }
+        TagRepository tagRepository = mock(TagRepository.class);
+        when(tagRepository.countPostsPerTag()).thenReturn(usages);
+        TagSuggestionIndex index = new TagSuggestionIndex(tagRepository);
+
+        long loadStart = System.nanoTime();
+        index.load();
+        System.out.printf("load %d tags: %.1f ms%n", TAGS, (System.nanoTime() - loadStart) / 1e6);
+
+        List<String> prefixes1 = List.of("a", "e", "s", "t", "m");
+        List<String> prefixes2 = List.of("an", "re", "st", "ma", "co");
+        List<String> prefixes3 = List.of("ant", "rea", "sta", "mar", "con");
+        List<String> prefixes4 = List.of("anta", "real", "star", "mari", "cons");
+
+        // A cache miss on a short prefix scans every tag under it once, timed without warm-up
+        for (String prefix : prefixes1) {
+            long start = System.nanoTime();
+            index.suggest(prefix, 10);
+            System.out.printf("%-40s %10.2f ms%n", "first lookup of \"" + prefix + "\" (builds cache)",
+                              (System.nanoTime() - start) / 1e6);
+        }
+        time("cached lookup, 1 char", 1_000_000, i -> index.suggest(prefixes1.get(i % 5), 10));
+        time("cached lookup, 2 chars", 1_000_000, i -> index.suggest(prefixes2.get(i % 5), 10));
+        time("cached lookup, 3 chars", 1_000_000, i -> index.suggest(prefixes3.get(i % 5), 10));
+        time("scan lookup, 4 chars", 200_000, i -> index.suggest(prefixes4.get(i % 5), 10));
+        time("recordUsage (random tag)", 200_000, i -> index.recordUsage(Set.of(names.get(i * 7919 % TAGS))));
+        time("releaseUsage (random tag)", 200_000, i -> index.releaseUsage(Set.of(names.get(i * 7919 % TAGS))));
+        time("cached lookup after updates, 1 char", 1_000_000, i -> index.suggest(prefixes1.get(i % 5), 10));
+    }
+
+    private static void time(String label, int iterations, IntConsumer operation) {
+        for (int i = 0; i < Math.min(iterations, 10_000); i++) { // warm-up
+            operation.accept(i);
+        }
+        long start = System.nanoTime();
+        for (int i = 0; i < iterations; i++) {
+            operation.accept(i);
+        }
+        System.out.printf("%-40s %10.2f us/op%n", label, (System.nanoTime() - start) / 1_000.0 / iterations);
+    }
+
+    // Letter frequencies roughly follow English so prefixes are as skewed as real tags
+    private static String randomWord(Random random) {
+        String letters = "eeeeeeeeeeeetttttttttaaaaaaaaooooooooiiiiiiinnnnnnnsssssshhhhhhrrrrrrddddllllcccuuummmwwffggyyppbbvkjxqz";
+        int length = 4 + random.nextInt(9);
+        StringBuilder word = new StringBuilder(length);
+        for (int i = 0; i < length; i++) {
+            word.append(letters.charAt(random.nextInt(letters.length())));
+        }
+        return word.toString();
+    }
+
+    private record Usage(String getName, long getPostCount) implements TagRepository.TagUsage {
+    }
+}
@@ -0,0 +1,160 @@
+package com.senibo.blogApi.index;
+
+import com.senibo.blogApi.dto.TagSuggestionResponse;
+import com.senibo.blogApi.repository.TagRepository;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class TagSuggestionIndexTest {
+
+    private final TagRepository tagRepository = mock(TagRepository.class);
+    private final TagSuggestionIndex index = new TagSuggestionIndex(tagRepository);
+
+    @Test
+    void ranksByUsageThenName() {
+        load(usage("Java", 3), usage("JavaScript", 5), usage("Jakarta", 3), usage("Kotlin", 9));
+
+        assertThat(index.suggest("ja", 10)).containsExactly(
+                new TagSuggestionResponse("JavaScript", 5),
+                new TagSuggestionResponse("Jakarta", 3),
+                new TagSuggestionResponse("Java", 3));
+        assertThat(index.suggest("JAV", 1)).containsExactly(new TagSuggestionResponse("JavaScript", 5));
+        assertThat(index.suggest("python", 10)).isEmpty();
+    }
+
+    @Test
+    void cachesOnlyPrefixesOfIndexedTags() {
+        load(usage("Java", 3));
+
+        assertThat(index.suggest("x", 10)).isEmpty();
+        assertThat(index.suggest("zq", 10)).isEmpty();
+        assertThat(index.suggest("jx", 10)).isEmpty();
+        assertThat(index.cachedPrefixCount()).isZero();
+
+        index.suggest("j", 10);
+        index.suggest("jav", 10);
+        assertThat(index.cachedPrefixCount()).isEqualTo(2);
+    }
+
+    @Test
+    void loadSumsNamesDifferingOnlyInCase() {
+        load(usage("Spring", 2), usage("spring", 3));
+
+        assertThat(index.suggest("spr", 10)).containsExactly(new TagSuggestionResponse("Spring", 5));
+    }
+
+    @Test
+    void loadReplacesPreviousContents() {
+        load(usage("Java", 1));
+        index.suggest("j", 10);
+
+        load(usage("Jakarta", 4));
+
+        assertThat(index.suggest("j", 10)).containsExactly(new TagSuggestionResponse("Jakarta", 4));
+    }
+
+    @Test
+    void recordAndReleaseUsageUpdateSuggestionsAndDropUnusedTags() {
+        load(usage("Java", 1));
+        assertThat(index.suggest("j", 10)).hasSize(1);
+
+        index.recordUsage(Set.of("Jakarta"));
+        index.recordUsage(Set.of("Jakarta"));
+        index.releaseUsage(Set.of("Java"));
+        index.releaseUsage(Set.of("Java"));
+
+        assertThat(index.suggest("j", 10)).containsExactly(new TagSuggestionResponse("Jakarta", 2));
+        assertThat(index.suggest("java", 10)).isEmpty();
+
+        index.recordUsage(Set.of("Java"));
+
+        assertThat(index.suggest("j", 10)).containsExactly(
+                new TagSuggestionResponse("Jakarta", 2),
+                new TagSuggestionResponse("Java", 1));
+    }
+
+    @Test
+    void cachedPrefixPicksUpUnlistedTagsWhenListedTagsLoseUsage() {
+        List<TagRepository.TagUsage> usages = new ArrayList<>();
+        for (int i = 0; i < 1_000; i++) {
+            usages.add(usage("tag" + i, 100 + i));
+        }
+        load(usages.toArray(TagRepository.TagUsage[]::new));
+        // tag0 has the lowest count and is far below the cached tags
+        assertThat(index.suggest("tag", 100)).extracting(TagSuggestionResponse::name).doesNotContain("tag0");
+
+        // Drop every other tag to zero, so the cached list has to be rebuilt from the index
+        for (int i = 1; i < 1_000; i++) {
+            for (int release = 0; release < 100 + i; release++) {
+                index.releaseUsage(Set.of("tag" + i));
+            }
+        }
+
+        assertThat(index.suggest("tag", 1)).containsExactly(new TagSuggestionResponse("tag0", 100));
+    }
+
+    @Test
+    void cachedPrefixesMatchBruteForceAfterRandomChanges() {
+        Random random = new Random(7);
+        List<String> names = new ArrayList<>();
+        for (int i = 0; i < 400; i++) {
+            names.add("" + (char) ('a' + random.nextInt(3)) + (char) ('a' + random.nextInt(3)) + i);
+        }
+        load();
+        Map<String, Integer> expected = new HashMap<>();
+        List<String> prefixes = List.of("a", "b", "ab", "ca", "bbc", "aa1");
+        prefixes.forEach(prefix -> index.suggest(prefix, 10));
+
+        for (int i = 0; i < 20_000; i++) {
+            String name = names.get(random.nextInt(names.size()));
+            if (random.nextInt(3) == 0) {
+                index.releaseUsage(Set.of(name));
+                expected.computeIfPresent(name, (key, count) -> Math.max(0, count - 1));
+            } else {
+                index.recordUsage(Set.of(name));
+                expected.merge(name, 1, Integer::sum);
+            }
+        }
+
+        for (String prefix : prefixes) {
+            List<TagSuggestionResponse> bruteForce = expected.entrySet().stream()
+                    .filter(entry -> entry.getKey().startsWith(prefix) && entry.getValue() > 0)
+                    .map(entry -> new TagSuggestionResponse(entry.getKey(), entry.getValue()))
+                    .sorted(Comparator.comparingInt(TagSuggestionResponse::usageCount).reversed()
+                                      .thenComparing(TagSuggestionResponse::name))
+                    .limit(TagSuggestionIndex.MAX_SUGGESTIONS)
+                    .toList();
+            assertThat(index.suggest(prefix, TagSuggestionIndex.MAX_SUGGESTIONS)).as(prefix).isEqualTo(bruteForce);
+        }
+    }
+
+    private void load(TagRepository.TagUsage... usages) {
+        when(tagRepository.countPostsPerTag()).thenReturn(List.of(usages));
+        index.load();
+    }
+
+    private static TagRepository.TagUsage usage(String name, long postCount) {
+        return new TagRepository.TagUsage() {
+            @Override
+            public String getName() {
+                return name;
+            }
+
+            @Override
+            public long getPostCount() {
+                return postCount;
+            }
+        };
+    }
+}
@@ -0,0 +1,154 @@
+package com.senibo.blogApi.service.serviceImpl;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.BooleanSupplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class SingleFlightTest {
+
+    private static final int CALLERS = 16;
+    private final ExecutorService executor = Executors.newFixedThreadPool(CALLERS);
+
+    @AfterEach
+    void shutDownExecutor() {
+        executor.shutdownNow();
+    }
+
+    @Test
+    void parallelCallersShareOneLoad() throws Exception {
+        SingleFlight<String, String> flight = new SingleFlight<>("test", Duration.ofSeconds(10));
+        CountDownLatch release = new CountDownLatch(1);
+        AtomicInteger loaderRuns = new AtomicInteger();
+
+        List<Future<String>> results = new ArrayList<>();
+        for (int i = 0; i < CALLERS; i++) {
+            results.add(executor.submit(() -> flight.execute("post", () -> {
+                loaderRuns.incrementAndGet();
+                await(release);
+                return "value";
+            })));
+        }
+        // Let the load finish only once every other caller has joined it
+        awaitUntil(() -> flight.getJoined() == CALLERS - 1);
+        release.countDown();
+
+        for (Future<String> result : results) {
+            assertThat(result.get(5, TimeUnit.SECONDS)).isEqualTo("value");
+        }
+        assertThat(loaderRuns).hasValue(1);
+        assertThat(flight.getLoads()).isEqualTo(1);
+        assertThat(flight.getSaved()).isEqualTo(CALLERS - 1);
+    }
+
+    @Test
+    void readerArrivingAfterForgetStartsFreshLoad() throws Exception {
+        SingleFlight<String, String> flight = new SingleFlight<>("test", Duration.ofSeconds(10));
+        CountDownLatch release = new CountDownLatch(1);
+
+        Future<String> beforeWrite = executor.submit(() -> flight.execute("post", () -> {
+            await(release);
+            return "stale";
+        }));
+        awaitUntil(() -> flight.getLoads() == 1);
+
+        flight.forget("post"); // a write completed while the first load was in flight
+
+        assertThat(flight.execute("post", () -> "fresh")).isEqualTo("fresh");
+        assertThat(flight.getLoads()).isEqualTo(2);
+
+        release.countDown();
+        assertThat(beforeWrite.get(5, TimeUnit.SECONDS)).isEqualTo("stale");
+        // The finished stale load must not remove or replace anything registered after it
+        assertThat(flight.execute("post", () -> "next")).isEqualTo("next");
+    }
+
+    @Test
+    void waitersShareTheLoaderException() throws Exception {
+        SingleFlight<String, String> flight = new SingleFlight<>("test", Duration.ofSeconds(10));
+        CountDownLatch release = new CountDownLatch(1);
+
+        List<Future<String>> results = new ArrayList<>();
+        for (int i = 0; i < CALLERS; i++) {
+            results.add(executor.submit(() -> flight.execute("post", () -> {
+                await(release);
+                throw new IllegalStateException("not found");
+            })));
+        }
+        awaitUntil(() -> flight.getJoined() == CALLERS - 1);
+        release.countDown();
+
+        for (Future<String> result : results) {
+            assertThatThrownBy(() -> result.get(5, TimeUnit.SECONDS)).hasRootCauseMessage("not found");
+        }
+        assertThat(flight.getLoads()).isEqualTo(1);
+    }
+
+    @Test
+    void slowLoadIsTakenOverByOneWaiter() throws Exception {
+        SingleFlight<String, String> flight = new SingleFlight<>("test", Duration.ofMillis(300));
+        CountDownLatch stuck = new CountDownLatch(1);
+        AtomicInteger loaderRuns = new AtomicInteger();
+
+        Future<String> slow = executor.submit(() -> flight.execute("post", () -> {
+            loaderRuns.incrementAndGet();
+            await(stuck);
+            return "slow";
+        }));
+        awaitUntil(() -> flight.getLoads() == 1);
+
+        List<Future<String>> waiters = new ArrayList<>();
+        for (int i = 0; i < CALLERS - 1; i++) {
+            waiters.add(executor.submit(() -> flight.execute("post", () -> {
+                loaderRuns.incrementAndGet();
+                sleep(100); // finishes within maxWait, so the waiters that join it get its result
+                return "retried";
+            })));
+        }
+
+        for (Future<String> waiter : waiters) {
+            assertThat(waiter.get(5, TimeUnit.SECONDS)).isEqualTo("retried");
+        }
+        assertThat(loaderRuns).hasValue(2);
+        assertThat(flight.getTakeovers()).isEqualTo(1);
+
+        stuck.countDown();
+        assertThat(slow.get(5, TimeUnit.SECONDS)).isEqualTo("slow");
+    }
+
+    private static void awaitUntil(BooleanSupplier condition) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (!condition.getAsBoolean()) {
+            assertThat(System.nanoTime()).as("condition not met in time").isLessThan(deadline);
+            Thread.sleep(5);
+        }
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            assertThat(latch.await(5, TimeUnit.SECONDS)).isTrue();
+        } catch (InterruptedException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static void sleep(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}